@@ -0,0 +1,4 @@
+package com.emilyordanov.configmgmt.dto.jmh_generated;
+public class RawPassthroughBenchmark_jmhType extends RawPassthroughBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.emilyordanov.configmgmt.hotkeys.jmh_generated;
+public class HotKeyTrackerBenchmark_jmhType extends HotKeyTrackerBenchmark_jmhType_B3 {
+}
+
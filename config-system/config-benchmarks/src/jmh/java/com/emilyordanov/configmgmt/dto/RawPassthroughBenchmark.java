@@ -0,0 +1,88 @@
+package com.emilyordanov.configmgmt.dto;
+
+import com.emilyordanov.configmgmt.entity.Configuration;
+import com.emilyordanov.configmgmt.mapper.ConfigurationMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serving one configuration whose JSONB text came back from Postgres: parsed into a JsonNode, mapped
+ * and re-serialized (the entity path), against embedded verbatim through {@link RawConfigurationResponse}.
+ * Run with the gc profiler (the default for this module); gc.alloc.rate.norm is the bytes allocated per
+ * response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RawPassthroughBenchmark {
+    @Param({"1", "4"})
+    public int documentMegabytes;
+
+    private ObjectMapper objectMapper;
+
+    private String jsonb;
+
+    private UUID id;
+
+    private Instant now;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        id = UUID.randomUUID();
+        now = Instant.now();
+
+        StringBuilder document = new StringBuilder("{");
+        for (int i = 0; document.length() < documentMegabytes * 1024 * 1024; i++) {
+            document.append(i == 0 ? "" : ", ")
+                    .append("\"service-").append(i).append("\": {\"host\": \"service-").append(i)
+                    .append(".prod.internal\", \"port\": ").append(8000 + i % 1000)
+                    .append(", \"enabled\": true, \"tags\": [\"eu-west-1\", \"tier-").append(i % 3).append("\"]}");
+        }
+        jsonb = document.append('}').toString();
+    }
+
+    @Benchmark
+    public byte[] jsonNode() throws Exception {
+        Configuration entity = new Configuration();
+        entity.setId(id);
+        entity.setAppName("app");
+        entity.setEnv("prod");
+        entity.setVersion(1);
+        entity.setData(objectMapper.readValue(jsonb, JsonNode.class));
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+
+        return objectMapper.writeValueAsBytes(ConfigurationMapper.toResponse(entity));
+    }
+
+    @Benchmark
+    public byte[] raw() throws Exception {
+        RawConfigurationResponse response = new RawConfigurationResponse();
+        response.setId(id);
+        response.setAppName("app");
+        response.setEnv("prod");
+        response.setVersion(1);
+        response.setData(jsonb);
+        response.setCreatedAt(now);
+        response.setUpdatedAt(now);
+
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,102 @@
+package com.emilyordanov.configloadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestOptions {
+    private int durationSeconds = 30;
+    private int warmupSeconds = 5;
+    private int concurrency = 32;
+    private double readRatio = 0.95;
+    private int apps = 200;
+    private int envs = 3;
+    private double zipfExponent = 1.1;
+    private int payloadFields = 20;
+    private long seed = 42L;
+    private String reportPath = "build/load-test-report.json";
+
+    // Optional release gates; a value of 0 disables the gate
+    private double minThroughput = 0;
+    private double maxP99Millis = 0;
+
+    public static LoadTestOptions fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        options.durationSeconds = Integer.parseInt(values.getOrDefault("durationSeconds", String.valueOf(options.durationSeconds)));
+        options.warmupSeconds = Integer.parseInt(values.getOrDefault("warmupSeconds", String.valueOf(options.warmupSeconds)));
+        options.concurrency = Integer.parseInt(values.getOrDefault("concurrency", String.valueOf(options.concurrency)));
+        options.readRatio = Double.parseDouble(values.getOrDefault("readRatio", String.valueOf(options.readRatio)));
+        options.apps = Integer.parseInt(values.getOrDefault("apps", String.valueOf(options.apps)));
+        options.envs = Integer.parseInt(values.getOrDefault("envs", String.valueOf(options.envs)));
+        options.zipfExponent = Double.parseDouble(values.getOrDefault("zipfExponent", String.valueOf(options.zipfExponent)));
+        options.payloadFields = Integer.parseInt(values.getOrDefault("payloadFields", String.valueOf(options.payloadFields)));
+        options.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(options.seed)));
+        options.reportPath = values.getOrDefault("reportPath", options.reportPath);
+        options.minThroughput = Double.parseDouble(values.getOrDefault("minThroughput", String.valueOf(options.minThroughput)));
+        options.maxP99Millis = Double.parseDouble(values.getOrDefault("maxP99Millis", String.valueOf(options.maxP99Millis)));
+
+        if (options.readRatio < 0 || options.readRatio > 1) {
+            throw new IllegalArgumentException("readRatio must be between 0 and 1");
+        }
+        if (options.concurrency < 1 || options.apps < 1 || options.envs < 1) {
+            throw new IllegalArgumentException("concurrency, apps and envs must be positive");
+        }
+        return options;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public double getReadRatio() {
+        return readRatio;
+    }
+
+    public int getApps() {
+        return apps;
+    }
+
+    public int getEnvs() {
+        return envs;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public int getPayloadFields() {
+        return payloadFields;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    public double getMinThroughput() {
+        return minThroughput;
+    }
+
+    public double getMaxP99Millis() {
+        return maxP99Millis;
+    }
+}
@@ -0,0 +1,73 @@
+package com.emilyordanov.configloadtest;
+
+import com.emilyordanov.configloadtest.infra.EmbeddedInfrastructure;
+import com.emilyordanov.configloadtest.load.LoadGenerator;
+import com.emilyordanov.configloadtest.load.LoadPhaseResult;
+import com.emilyordanov.configloadtest.report.LoadTestReport;
+import com.emilyordanov.configmgmt.ConfigManagementApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Boots the management API against embedded Postgres, Redis and Kafka, drives load at it
+ * and writes a JSON report. Exits with status 1 when a configured release gate fails.
+ */
+public class LoadTestRunner {
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromArgs(args);
+        LoadTestReport report;
+
+        try (EmbeddedInfrastructure infrastructure = new EmbeddedInfrastructure()) {
+            infrastructure.start();
+
+            // Passed as command-line arguments, because builder properties are defaults that
+            // application.yml overrides
+            String[] applicationArgs = infrastructure.springProperties().entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new);
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ConfigManagementApiApplication.class)
+                    .properties("server.port=0")
+                    .run(applicationArgs);
+
+            try {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                LoadGenerator generator = new LoadGenerator("http://localhost:" + port, options);
+
+                generator.seed();
+                if (options.getWarmupSeconds() > 0) {
+                    generator.run(options.getWarmupSeconds());
+                }
+
+                Instant startedAt = Instant.now();
+                LoadPhaseResult result = generator.run(options.getDurationSeconds());
+                report = new LoadTestReport(startedAt, options, result);
+            } finally {
+                context.close();
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+
+        Path reportPath = Path.of(options.getReportPath());
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        objectMapper.writeValue(reportPath.toFile(), report);
+        System.out.println(objectMapper.writeValueAsString(report));
+
+        if (!report.isPassed()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.emilyordanov.configloadtest.infra;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts in-process stand-ins for the services the management API expects
+ * (Postgres, Redis, Kafka) and exposes the Spring properties pointing at them.
+ */
+public class EmbeddedInfrastructure implements AutoCloseable {
+    private EmbeddedPostgres postgres;
+    private RedisServer redis;
+    private EmbeddedKafkaKraftBroker kafka;
+    private int redisPort;
+
+    public void start() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+
+        redisPort = freePort();
+        redis = new RedisServer(redisPort);
+        redis.start();
+
+        kafka = new EmbeddedKafkaKraftBroker(1, 1, "configuration-changes");
+        kafka.afterPropertiesSet();
+    }
+
+    public Map<String, Object> springProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+        properties.put("spring.kafka.bootstrap-servers", kafka.getBrokersAsString());
+        properties.put("logging.level.org.hibernate.SQL", "warn");
+        return properties;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (kafka != null) {
+            kafka.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
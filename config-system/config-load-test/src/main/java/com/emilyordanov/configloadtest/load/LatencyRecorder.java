@@ -0,0 +1,51 @@
+package com.emilyordanov.configloadtest.load;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-writer latency buffer. Each worker owns one recorder; they are merged after the run.
+ */
+public class LatencyRecorder {
+    private long[] samples = new long[1 << 14];
+    private int count;
+    private long errors;
+
+    public void record(long latencyNanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public static LatencySummary summarize(List<LatencyRecorder> recorders, double elapsedSeconds) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.count;
+            errors += recorder.errors;
+        }
+
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.count);
+            offset += recorder.count;
+        }
+        Arrays.sort(merged);
+
+        return new LatencySummary(merged, errors, elapsedSeconds);
+    }
+}
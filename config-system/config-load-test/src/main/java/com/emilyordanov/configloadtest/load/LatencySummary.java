@@ -0,0 +1,78 @@
+package com.emilyordanov.configloadtest.load;
+
+public class LatencySummary {
+    private final long count;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double p999Millis;
+    private final double maxMillis;
+
+    LatencySummary(long[] sortedNanos, long errors, double elapsedSeconds) {
+        this.count = sortedNanos.length;
+        this.errors = errors;
+        this.throughputPerSecond = elapsedSeconds > 0 ? sortedNanos.length / elapsedSeconds : 0;
+
+        long sum = 0;
+        for (long sample : sortedNanos) {
+            sum += sample;
+        }
+        this.meanMillis = sortedNanos.length == 0 ? 0 : toMillis(sum / sortedNanos.length);
+        this.p50Millis = percentile(sortedNanos, 0.50);
+        this.p90Millis = percentile(sortedNanos, 0.90);
+        this.p99Millis = percentile(sortedNanos, 0.99);
+        this.p999Millis = percentile(sortedNanos, 0.999);
+        this.maxMillis = sortedNanos.length == 0 ? 0 : toMillis(sortedNanos[sortedNanos.length - 1]);
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return toMillis(sortedNanos[Math.max(0, index)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getP999Millis() {
+        return p999Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
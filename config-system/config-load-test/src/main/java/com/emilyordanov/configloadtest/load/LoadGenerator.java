@@ -0,0 +1,131 @@
+package com.emilyordanov.configloadtest.load;
+
+import com.emilyordanov.configloadtest.LoadTestOptions;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a read/write mix against a running management API. Keys are picked with a Zipf
+ * distribution so a few app/env pairs receive most of the traffic, like in production.
+ */
+public class LoadGenerator {
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final ZipfDistribution keys;
+
+    public LoadGenerator(String baseUrl, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        this.keys = new ZipfDistribution(options.getApps() * options.getEnvs(), options.getZipfExponent());
+    }
+
+    // Every key gets a first version so reads never hit a 404
+    public void seed() throws Exception {
+        int keyCount = options.getApps() * options.getEnvs();
+        for (int key = 0; key < keyCount; key++) {
+            HttpResponse<Void> response = httpClient.send(createRequest(key, 0), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    public LoadPhaseResult run(int seconds) throws Exception {
+        List<LatencyRecorder> reads = new ArrayList<>();
+        List<LatencyRecorder> writes = new ArrayList<>();
+        List<Future<?>> workers = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.getConcurrency());
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(seconds);
+
+        for (int worker = 0; worker < options.getConcurrency(); worker++) {
+            LatencyRecorder readRecorder = new LatencyRecorder();
+            LatencyRecorder writeRecorder = new LatencyRecorder();
+            reads.add(readRecorder);
+            writes.add(writeRecorder);
+
+            SplittableRandom random = new SplittableRandom(options.getSeed() + worker);
+            workers.add(executor.submit(() -> drive(random, deadline, readRecorder, writeRecorder)));
+        }
+
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return new LoadPhaseResult(
+                LatencyRecorder.summarize(reads, elapsedSeconds),
+                LatencyRecorder.summarize(writes, elapsedSeconds));
+    }
+
+    private void drive(SplittableRandom random, long deadline, LatencyRecorder reads, LatencyRecorder writes) {
+        long sequence = 0;
+        while (System.nanoTime() < deadline) {
+            int key = keys.sample(random);
+            boolean read = random.nextDouble() < options.getReadRatio();
+
+            HttpRequest request = read ? latestRequest(key) : createRequest(key, ++sequence);
+            LatencyRecorder recorder = read ? reads : writes;
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 300) {
+                    recorder.recordError();
+                } else {
+                    recorder.record(System.nanoTime() - start);
+                }
+            } catch (Exception e) {
+                recorder.recordError();
+            }
+        }
+    }
+
+    private HttpRequest latestRequest(int key) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/configurations/latest?appName=" + appName(key) + "&env=" + env(key)))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest createRequest(int key, long sequence) {
+        StringBuilder data = new StringBuilder("{\"sequence\":").append(sequence);
+        for (int field = 0; field < options.getPayloadFields(); field++) {
+            data.append(",\"field").append(field).append("\":\"value-").append(field).append('"');
+        }
+        data.append('}');
+
+        String body = "{\"appName\":\"" + appName(key) + "\",\"env\":\"" + env(key) + "\",\"data\":" + data + "}";
+
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/api/configurations"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String appName(int key) {
+        return "loadtest-app-" + (key / options.getEnvs());
+    }
+
+    private String env(int key) {
+        return "env-" + (key % options.getEnvs());
+    }
+}
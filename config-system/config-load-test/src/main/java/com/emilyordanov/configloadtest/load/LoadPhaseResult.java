@@ -0,0 +1,19 @@
+package com.emilyordanov.configloadtest.load;
+
+public class LoadPhaseResult {
+    private final LatencySummary reads;
+    private final LatencySummary writes;
+
+    public LoadPhaseResult(LatencySummary reads, LatencySummary writes) {
+        this.reads = reads;
+        this.writes = writes;
+    }
+
+    public LatencySummary getReads() {
+        return reads;
+    }
+
+    public LatencySummary getWrites() {
+        return writes;
+    }
+}
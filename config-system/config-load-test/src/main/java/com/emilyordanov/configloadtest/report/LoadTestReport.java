@@ -0,0 +1,59 @@
+package com.emilyordanov.configloadtest.report;
+
+import com.emilyordanov.configloadtest.LoadTestOptions;
+import com.emilyordanov.configloadtest.load.LatencySummary;
+import com.emilyordanov.configloadtest.load.LoadPhaseResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadTestReport {
+    private final Instant startedAt;
+    private final LoadTestOptions options;
+    private final LatencySummary reads;
+    private final LatencySummary writes;
+    private final List<String> gateFailures = new ArrayList<>();
+
+    public LoadTestReport(Instant startedAt, LoadTestOptions options, LoadPhaseResult result) {
+        this.startedAt = startedAt;
+        this.options = options;
+        this.reads = result.getReads();
+        this.writes = result.getWrites();
+
+        double throughput = reads.getThroughputPerSecond() + writes.getThroughputPerSecond();
+        if (options.getMinThroughput() > 0 && throughput < options.getMinThroughput()) {
+            gateFailures.add("throughput " + throughput + " req/s is below " + options.getMinThroughput());
+        }
+        if (options.getMaxP99Millis() > 0 && reads.getP99Millis() > options.getMaxP99Millis()) {
+            gateFailures.add("read p99 " + reads.getP99Millis() + " ms is above " + options.getMaxP99Millis());
+        }
+        if (options.getMaxP99Millis() > 0 && writes.getP99Millis() > options.getMaxP99Millis()) {
+            gateFailures.add("write p99 " + writes.getP99Millis() + " ms is above " + options.getMaxP99Millis());
+        }
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public LoadTestOptions getOptions() {
+        return options;
+    }
+
+    public LatencySummary getReads() {
+        return reads;
+    }
+
+    public LatencySummary getWrites() {
+        return writes;
+    }
+
+    public List<String> getGateFailures() {
+        return gateFailures;
+    }
+
+    public boolean isPassed() {
+        return gateFailures.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.emilyordanov.configmgmt.controller.api;
 
 import com.emilyordanov.configmgmt.dto.ConfigurationResponse;
 import com.emilyordanov.configmgmt.dto.CreateConfigurationRequest;
+import com.emilyordanov.configmgmt.dto.RawConfigurationResponse;
 import com.emilyordanov.configmgmt.mapper.ConfigurationMapper;
 import com.emilyordanov.configmgmt.service.ConfigurationService;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -36,18 +37,15 @@ public class ConfigurationController {
     }
 
     @GetMapping("/{id}")
-    public ConfigurationResponse getById(@PathVariable UUID id) {
-        return ConfigurationMapper.toResponse(service.getById(id));
+    public RawConfigurationResponse getById(@PathVariable UUID id) {
+        return service.getRawById(id);
     }
 
     @GetMapping
-    public List<ConfigurationResponse> list(
+    public List<RawConfigurationResponse> list(
             @RequestParam String appName,
             @RequestParam String env) {
-        return service.list(appName, env)
-                .stream()
-                .map(ConfigurationMapper::toResponse)
-                .toList();
+        return service.listRaw(appName, env);
     }
 
     @PutMapping("/{id}")
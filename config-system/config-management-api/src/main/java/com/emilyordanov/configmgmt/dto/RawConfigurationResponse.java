@@ -0,0 +1,86 @@
+package com.emilyordanov.configmgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only response whose {@code data} is the JSONB text exactly as Postgres returned it.
+ * It is embedded verbatim into the response, so no JsonNode tree is built or re-serialized.
+ */
+public class RawConfigurationResponse {
+    private UUID id;
+
+    private String appName;
+
+    private String env;
+
+    private Integer version;
+
+    @JsonRawValue
+    private String data;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    public RawConfigurationResponse() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getAppName() {
+        return appName;
+    }
+
+    public void setAppName(String appName) {
+        this.appName = appName;
+    }
+
+    public String getEnv() {
+        return env;
+    }
+
+    public void setEnv(String env) {
+        this.env = env;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
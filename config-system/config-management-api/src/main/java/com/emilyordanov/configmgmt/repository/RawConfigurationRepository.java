@@ -0,0 +1,62 @@
+package com.emilyordanov.configmgmt.repository;
+
+import com.emilyordanov.configmgmt.dto.RawConfigurationResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Read-only JDBC access that returns {@code data} as the raw JSONB text instead of
+ * letting Hibernate parse it into a JsonNode.
+ */
+@Repository
+public class RawConfigurationRepository {
+    private static final String SELECT_COLUMNS =
+            "SELECT id, app_name, env, version, data::text AS data, created_at, updated_at FROM configurations ";
+
+    // Hibernate stores Instant columns as UTC wall-clock timestamps, so read them back the same way
+    private static final RowMapper<RawConfigurationResponse> ROW_MAPPER = (rs, rowNum) -> {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        RawConfigurationResponse dto = new RawConfigurationResponse();
+        dto.setId(rs.getObject("id", UUID.class));
+        dto.setAppName(rs.getString("app_name"));
+        dto.setEnv(rs.getString("env"));
+        dto.setVersion(rs.getInt("version"));
+        dto.setData(rs.getString("data"));
+        dto.setCreatedAt(rs.getTimestamp("created_at", utc).toInstant());
+        dto.setUpdatedAt(rs.getTimestamp("updated_at", utc).toInstant());
+        return dto;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RawConfigurationRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<RawConfigurationResponse> findByIdAndDeletedAtIsNull(UUID id) {
+        List<RawConfigurationResponse> rows = jdbcTemplate.query(
+                SELECT_COLUMNS + "WHERE id = :id AND deleted_at IS NULL",
+                new MapSqlParameterSource("id", id),
+                ROW_MAPPER);
+
+        return rows.stream().findFirst();
+    }
+
+    public List<RawConfigurationResponse> findAllByAppNameAndEnvAndDeletedAtIsNull(String appName, String env) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "WHERE app_name = :appName AND env = :env AND deleted_at IS NULL ORDER BY version",
+                new MapSqlParameterSource()
+                        .addValue("appName", appName)
+                        .addValue("env", env),
+                ROW_MAPPER);
+    }
+}
@@ -3,10 +3,12 @@ package com.emilyordanov.configmgmt.service;
 import com.emilyordanov.configmgmt.cache.RedisKeys;
 import com.emilyordanov.configmgmt.controller.exception.ConfigurationNotFoundException;
 import com.emilyordanov.configmgmt.dto.CreateConfigurationRequest;
+import com.emilyordanov.configmgmt.dto.RawConfigurationResponse;
 import com.emilyordanov.configmgmt.entity.Configuration;
 import com.emilyordanov.configmgmt.event.ConfigurationChangeEvent;
 import com.emilyordanov.configmgmt.kafka.ConfigurationEventProducer;
 import com.emilyordanov.configmgmt.repository.ConfigurationRepository;
+import com.emilyordanov.configmgmt.repository.RawConfigurationRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -20,14 +22,17 @@ import java.util.UUID;
 public class ConfigurationService {
     private final ConfigurationRepository configurationRepository;
 
+    private final RawConfigurationRepository rawConfigurationRepository;
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     private final ObjectMapper objectMapper;
 
     private final ConfigurationEventProducer eventProducer;
 
-    public ConfigurationService(ConfigurationRepository configurationRepository, RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper, ConfigurationEventProducer eventProducer) {
+    public ConfigurationService(ConfigurationRepository configurationRepository, RawConfigurationRepository rawConfigurationRepository, RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper, ConfigurationEventProducer eventProducer) {
         this.configurationRepository = configurationRepository;
+        this.rawConfigurationRepository = rawConfigurationRepository;
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.eventProducer = eventProducer;
@@ -99,6 +104,17 @@ public class ConfigurationService {
         return configurationRepository.findAllByAppNameAndEnvAndDeletedAtIsNull(appName, env);
     }
 
+    // Read-only variants: data stays as the raw JSONB text all the way to the HTTP response
+    public RawConfigurationResponse getRawById(UUID id) {
+        return rawConfigurationRepository.findByIdAndDeletedAtIsNull(id)
+                .orElseThrow(() ->
+                        new ConfigurationNotFoundException("Configuration not found"));
+    }
+
+    public List<RawConfigurationResponse> listRaw(String appName, String env) {
+        return rawConfigurationRepository.findAllByAppNameAndEnvAndDeletedAtIsNull(appName, env);
+    }
+
     // UPDATE = create new version
     public Configuration update(UUID id, JsonNode newData) {
         // 1. Load existing configuration (throws 404 if not found or deleted)
@@ -151,6 +151,47 @@ public class ConfigurationIntegrationTest extends BaseIntegrationTest {
         assertEquals(HttpStatus.NOT_FOUND, latestResponse.getStatusCode());
     }
 
+    @Test
+    void getByIdAndListShouldReturnStoredDataAsJson() throws Exception {
+
+        String app = "raw-" + UUID.randomUUID();
+        String env = "itest";
+
+        JsonNode created = createConfig(
+                app,
+                env,
+                """
+                        {
+                          "timeoutMs": 4000,
+                          "hosts": ["a.internal", "b.internal"],
+                          "db": { "pool": { "max": 20 } }
+                        }
+                        """
+        );
+
+        ResponseEntity<String> byIdResponse =
+                restTemplate.getForEntity(
+                        "/api/configurations/" + created.get("id").asText(),
+                        String.class
+                );
+
+        assertEquals(HttpStatus.OK, byIdResponse.getStatusCode());
+        JsonNode byId = objectMapper.readTree(byIdResponse.getBody());
+        assertEquals(created.get("data"), byId.get("data"));
+        assertEquals(20, byId.get("data").get("db").get("pool").get("max").asInt());
+
+        ResponseEntity<String> listResponse =
+                restTemplate.getForEntity(
+                        "/api/configurations?appName=" + app + "&env=" + env,
+                        String.class
+                );
+
+        assertEquals(HttpStatus.OK, listResponse.getStatusCode());
+        JsonNode list = objectMapper.readTree(listResponse.getBody());
+        assertEquals(1, list.size());
+        assertEquals(created.get("data"), list.get(0).get("data"));
+    }
+
     // ----------------------------------------------------------------
     // Helper methods
     // ----------------------------------------------------------------